@@ -2,11 +2,16 @@ package dev.viskar.typesafe.config.spring;
 
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigObject;
+import dev.viskar.typesafe.config.spring.internal.ConfigSpliterator;
 import dev.viskar.typesafe.config.spring.internal.ConfigVisitor;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Spliterator;
 import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class SpringConfigUtils {
 
@@ -59,4 +64,35 @@ public class SpringConfigUtils {
         return new LinkedHashMap<>(sortedValues);
     }
 
+    /**
+     * Lazily stream the entries of {@link #flatten(Config)}, without building the whole map in memory.
+     * <p>
+     * The order is depth-first, with keys sorted within each object and list elements in index order. It is not the
+     * global sort order of {@link #flatten(Config)}, e.g. {@code myList[1]} precedes {@code myList[10]}, and every
+     * {@code a.*} key precedes {@code a-b}.
+     * <p>
+     * Unlike {@link #flatten(Config)}, keys are not collapsed: a quoted key such as {@code "a.b"} next to an object
+     * {@code a { b }} yields two entries for {@code a.b}.
+     * <p>
+     * The stream may be made {@link Stream#parallel() parallel}, which splits the walk across subtrees.
+     */
+    public static Stream<Entry<String, Object>> stream(Config config) {
+        return stream(config, "");
+    }
+
+    /**
+     * Like {@link #stream(Config)}, limited to keys that start with the given prefix, such as "server.".
+     * Subtrees that cannot contain a matching key are skipped during the walk.
+     */
+    public static Stream<Entry<String, Object>> stream(Config config, String prefix) {
+        return StreamSupport.stream(spliterator(config, prefix), false);
+    }
+
+    /**
+     * The {@link Spliterator} behind {@link #stream(Config, String)}.
+     */
+    public static Spliterator<Entry<String, Object>> spliterator(Config config, String prefix) {
+        return new ConfigSpliterator(config, prefix);
+    }
+
 }
@@ -0,0 +1,159 @@
+package dev.viskar.typesafe.config.spring.internal;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigList;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigValue;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Pull-based counterpart to {@link ConfigVisitor}, emitting the same Spring-style paths as lazily produced entries.
+ * <p>
+ * Lists and values are emitted, objects are not. Values are unwrapped one node at a time, so the Config is never
+ * copied into a single in-memory map.
+ * <p>
+ * Entries are emitted depth-first, with keys sorted within each object and list elements in index order. Keys are
+ * not guaranteed distinct: a quoted key such as {@code "a.b"} next to an object {@code a { b }} emits {@code a.b} twice.
+ * <p>
+ * When a prefix is given, subtrees that cannot contain a matching path are skipped without being walked.
+ * <p>
+ * Splitting hands off pending subtrees, so parallel streams divide the work between top-level branches.
+ */
+public class ConfigSpliterator implements Spliterator<Entry<String, Object>> {
+
+    private final String prefix;
+
+    /**
+     * Nodes still to be walked, in encounter order from head to tail.
+     */
+    private final Deque<Node> pending;
+
+    /**
+     * Size is unknown up front, so like {@link java.util.Spliterators.AbstractSpliterator} this starts unbounded and
+     * halves on every split. That lets parallel streams stop splitting at a sensible granularity.
+     */
+    private long est;
+
+    public ConfigSpliterator(Config config, String prefix) {
+        this(prefix, new ArrayDeque<>(), Long.MAX_VALUE);
+        Objects.requireNonNull(config, "config must not be null");
+        pushObject("", config.root());
+    }
+
+    private ConfigSpliterator(String prefix, Deque<Node> pending, long est) {
+        this.prefix = Objects.requireNonNull(prefix, "prefix must not be null");
+        this.pending = pending;
+        this.est = est;
+    }
+
+    // ************************************************************************
+    // Spliterator
+    // ************************************************************************
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Entry<String, Object>> action) {
+        Node node;
+        while ((node = pending.pollFirst()) != null) {
+            ConfigValue value = node.value;
+            if (value instanceof ConfigObject) {
+                pushObject(node.position, (ConfigObject) value);
+            } else if (value instanceof ConfigList) {
+                pushList(node.position, (ConfigList) value);
+                if (matches(node.position)) {
+                    action.accept(new SimpleImmutableEntry<>(node.position, value.unwrapped()));
+                    return true;
+                }
+            } else if (matches(node.position)) {
+                action.accept(new SimpleImmutableEntry<>(node.position, value.unwrapped()));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Spliterator<Entry<String, Object>> trySplit() {
+        // A lone object has nothing to hand off yet, so open it up first
+        while (pending.size() == 1 && pending.peekFirst().value instanceof ConfigObject) {
+            Node node = pending.pollFirst();
+            pushObject(node.position, (ConfigObject) node.value);
+        }
+        int half = pending.size() / 2;
+        if (half == 0) {
+            return null;
+        }
+        // The returned spliterator must cover the leading nodes to preserve encounter order
+        Deque<Node> split = new ArrayDeque<>(half);
+        for (int i = 0; i < half; i++) {
+            split.addLast(pending.pollFirst());
+        }
+        est >>>= 1;
+        return new ConfigSpliterator(prefix, split, est);
+    }
+
+    @Override
+    public long estimateSize() {
+        return pending.isEmpty() ? 0 : est;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    // ************************************************************************
+    // Helpers
+    // ************************************************************************
+
+    private void pushObject(String position, ConfigObject object) {
+        // Sorted for a stable order, pushed in reverse so the smallest key is walked first
+        String[] keys = object.keySet().toArray(new String[0]);
+        Arrays.sort(keys);
+        for (int i = keys.length - 1; i >= 0; i--) {
+            String childPosition = position.isEmpty() ? keys[i] : position + "." + keys[i];
+            if (mayContainMatches(childPosition)) {
+                pending.addFirst(new Node(childPosition, object.get(keys[i])));
+            }
+        }
+    }
+
+    private void pushList(String position, ConfigList list) {
+        for (int i = list.size() - 1; i >= 0; i--) {
+            String childPosition = position + "[" + i + "]";
+            if (mayContainMatches(childPosition)) {
+                pending.addFirst(new Node(childPosition, list.get(i)));
+            }
+        }
+    }
+
+    private boolean matches(String position) {
+        return position.startsWith(prefix);
+    }
+
+    /**
+     * Every path below a position starts with that position, so a subtree can only match if one is a prefix of the other.
+     */
+    private boolean mayContainMatches(String position) {
+        return position.startsWith(prefix) || prefix.startsWith(position);
+    }
+
+    private static class Node {
+
+        final String position;
+        final ConfigValue value;
+
+        Node(String position, ConfigValue value) {
+            this.position = position;
+            this.value = value;
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package dev.viskar.typesafe.config.spring;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigException;
+import com.typesafe.config.ConfigFactory;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+public class SpringConfigUtilsTest {
+
+    private static final Config CONFIG = ConfigFactory.parseString(""
+            + "foo = abc\n"
+            + "bar { baz = 123, qux = def }\n"
+            + "myList = [ a, b, c, d, e, f, g, h, i, j, k, { x = 1 } ]\n"
+            + "a { x = 1, y { z = [ 1, 2 ] } }\n"
+            + "a-b = 2\n"
+            + "server { port = 8080, host = localhost }\n"
+            + "serverX = 1\n").resolve();
+
+    @Test
+    public void streamMatchesFlatten() {
+        assertEquals(SpringConfigUtils.flatten(CONFIG), collect(SpringConfigUtils.stream(CONFIG).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void streamIsDepthFirst() {
+        List<String> keys = SpringConfigUtils.stream(CONFIG, "myList")
+                .map(Entry::getKey)
+                .collect(Collectors.toList());
+        assertEquals("myList", keys.get(0));
+        assertEquals("myList[1]", keys.get(2));
+        assertEquals("myList[10]", keys.get(11));
+        assertEquals("myList[11].x", keys.get(12));
+    }
+
+    @Test
+    public void parallelStreamMatchesSequential() {
+        Config large = ConfigFactory.empty();
+        for (int i = 0; i < 200; i++) {
+            large = large.withFallback(ConfigFactory.parseString("k" + i + " { v = " + i + ", list = [ " + i + ", { w = " + i + " } ] }"));
+        }
+        large = large.withFallback(CONFIG);
+
+        List<Entry<String, Object>> sequential = SpringConfigUtils.stream(large).collect(Collectors.toList());
+        List<Entry<String, Object>> parallel = SpringConfigUtils.stream(large).parallel().collect(Collectors.toList());
+        assertEquals(sequential, parallel);
+        assertEquals(SpringConfigUtils.flatten(large), collect(parallel));
+    }
+
+    @Test
+    public void streamWithPrefixSkipsSiblings() {
+        List<String> keys = SpringConfigUtils.stream(CONFIG, "server.")
+                .map(Entry::getKey)
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList("server.host", "server.port"), keys);
+    }
+
+    @Test
+    public void streamWithPrefixDoesNotWalkSiblings() {
+        // Unwrapping an unresolved substitution throws, so these siblings must never be visited
+        Config unresolved = ConfigFactory.parseString(""
+                + "server { port = 8080 }\n"
+                + "serverX = ${missing}\n"
+                + "bar { baz = ${missing} }\n");
+
+        List<String> keys = SpringConfigUtils.stream(unresolved, "server.")
+                .map(Entry::getKey)
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList("server.port"), keys);
+    }
+
+    @Test(expected = ConfigException.NotResolved.class)
+    public void streamWithoutPrefixWalksUnresolvedSiblings() {
+        SpringConfigUtils.stream(ConfigFactory.parseString("serverX = ${missing}")).count();
+    }
+
+    private static Map<String, Object> collect(List<Entry<String, Object>> entries) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (Entry<String, Object> e : entries) {
+            map.put(e.getKey(), e.getValue());
+        }
+        return map;
+    }
+
+}
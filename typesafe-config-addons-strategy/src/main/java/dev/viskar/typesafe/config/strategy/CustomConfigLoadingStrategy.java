@@ -29,15 +29,23 @@ import java.util.function.Supplier;
  * Customize the factory using {@link #builder()}. See {@link Builder} for more details.
  * <p>
  * Install the built factory as the default using {@link #install()}.
+ * <p>
+ * When running as a GraalVM native image, prefer calling {@link #load()} on the strategy directly.
+ * {@link ConfigFactory} instantiates an installed strategy reflectively, whereas {@link #load()} does not.
+ * Use {@link #snapshot()} to parse the layers ahead of time, such as during a native image build.
+ * <p>
+ * Installing keeps the strategy in static state read by the no-arg constructor, which a class initialized at image
+ * build time would freeze. Snapshots therefore cannot be installed.
  */
 public class CustomConfigLoadingStrategy implements ConfigLoadingStrategy {
 
-    private static final String STRATEGY_PROPERTY_NAME = Utils.detectPropertyName("config.strategy");
-
     private static ConfigLoadingStrategy installedImpl;
 
     private final ConfigLoadingStrategy impl;
 
+    // Unresolved reference.conf captured by snapshot(), or null when loading on demand
+    private final Config reference;
+
     /**
      * Should not be invoked manually.
      * <p>
@@ -49,6 +57,7 @@ public class CustomConfigLoadingStrategy implements ConfigLoadingStrategy {
         this.impl = installedImpl != null
                 ? installedImpl
                 : new DefaultConfigLoadingStrategy();
+        this.reference = null;
     }
 
     private CustomConfigLoadingStrategy(Callable<Config> loader) {
@@ -61,6 +70,12 @@ public class CustomConfigLoadingStrategy implements ConfigLoadingStrategy {
                 throw new ConfigException.Generic("Uncaught exception while loading config", e);
             }
         };
+        this.reference = null;
+    }
+
+    private CustomConfigLoadingStrategy(Config application, Config reference) {
+        this.impl = parseOptions -> application;
+        this.reference = reference;
     }
 
     // ************************************************************************
@@ -75,7 +90,9 @@ public class CustomConfigLoadingStrategy implements ConfigLoadingStrategy {
      * Like {@link ConfigFactory#load()}, except applying this provider's customizations.
      */
     public Config load() {
-        return ConfigFactory.load(parseApplicationConfig());
+        return reference != null
+                ? ConfigFactory.defaultOverrides().withFallback(parseApplicationConfig()).withFallback(reference).resolve()
+                : ConfigFactory.load(parseApplicationConfig());
     }
 
     /**
@@ -90,6 +107,27 @@ public class CustomConfigLoadingStrategy implements ConfigLoadingStrategy {
         return impl.parseApplicationConfig(parseOptions);
     }
 
+    /**
+     * Parses all layers and reference.conf now, and returns a strategy that reuses them instead of parsing again.
+     * <p>
+     * The captured layers are left unresolved. {@link #load()} still applies the current system property overrides
+     * and resolves substitutions each time it is called. Which files and resources make up the layers is decided when
+     * the snapshot is taken, so a later {@code config.file}, {@code config.resource} or {@code config.url} has no
+     * effect on it.
+     * <p>
+     * {@link #parseApplicationConfig()} answers with the captured layers only, while {@link #load()} also falls back
+     * to the captured reference.conf.
+     * <p>
+     * Holding the snapshot in a static field of a class initialized at native image build time embeds the parsed
+     * layers in the image heap, so the native binary starts without parsing HOCON.
+     * <p>
+     * A snapshot cannot be installed, since {@link ConfigFactory} would parse reference.conf again. Call
+     * {@link #load()} on it directly.
+     */
+    public CustomConfigLoadingStrategy snapshot() {
+        return new CustomConfigLoadingStrategy(parseApplicationConfig(), ConfigFactory.defaultReferenceUnresolved());
+    }
+
     // ************************************************************************
     // ConfigLoadingStrategy Hooks
     // ************************************************************************
@@ -97,15 +135,19 @@ public class CustomConfigLoadingStrategy implements ConfigLoadingStrategy {
     /**
      * Sets this instance as the default {@link ConfigLoadingStrategy}.
      * Once set, the standard {@link ConfigFactory} will delegate to this instance on load() and defaultApplication()
+     *
+     * @throws IllegalStateException if this strategy is a {@link #snapshot()}.
      */
     public void install() {
+        requireNotSnapshot();
         // Register this class as the ConfigLoadingStrategy for ConfigFactory
-        System.setProperty(STRATEGY_PROPERTY_NAME, CustomConfigLoadingStrategy.class.getName());
+        System.setProperty(Utils.STRATEGY_PROPERTY_NAME, CustomConfigLoadingStrategy.class.getName());
         // Install
         softInstall();
     }
 
     public void softInstall() {
+        requireNotSnapshot();
         // Assign the delegate to be used
         installedImpl = this.impl;
         // Clear caches
@@ -122,6 +164,12 @@ public class CustomConfigLoadingStrategy implements ConfigLoadingStrategy {
         }
     }
 
+    private void requireNotSnapshot() {
+        if (reference != null) {
+            throw new IllegalStateException("A snapshot cannot be installed, call load() on it directly");
+        }
+    }
+
     // ************************************************************************
     // Builders
     // ************************************************************************
@@ -1,16 +1,20 @@
 package dev.viskar.typesafe.config.strategy.internal;
 
 import com.typesafe.config.Config;
-import com.typesafe.config.ConfigFactory;
 import dev.viskar.typesafe.config.strategy.CustomConfigLoadingStrategy.CoreBuilder;
 
-import java.lang.reflect.Field;
 import java.util.concurrent.Callable;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 public class Utils {
 
+    /**
+     * Mirrors the private {@code ConfigFactory.STRATEGY_PROPERTY_NAME}.
+     * Kept as a constant, rather than read reflectively, so startup stays reflection-free for native images.
+     */
+    public static final String STRATEGY_PROPERTY_NAME = "config.strategy";
+
     public static <P> Callable<Config> combineProfiles(Supplier<P[]> profiles, boolean preferFirst, BiConsumer<? super P, CoreBuilder<?>> builder) {
         return () -> {
             return combineProfiles(profiles.get(), preferFirst, builder).call();
@@ -31,16 +35,4 @@ public class Utils {
         return innerLoader;
     }
 
-    public static String detectPropertyName(String defaultValue) {
-        String propName = defaultValue;
-        try {
-            Field f = ConfigFactory.class.getDeclaredField("STRATEGY_PROPERTY_NAME");
-            f.setAccessible(true);
-            propName = f.get(null).toString();
-        } catch (Throwable ignore) {
-            // ignore
-        }
-        return propName;
-    }
-
 }
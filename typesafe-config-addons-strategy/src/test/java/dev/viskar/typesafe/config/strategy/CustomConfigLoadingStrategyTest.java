@@ -0,0 +1,63 @@
+package dev.viskar.typesafe.config.strategy;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CustomConfigLoadingStrategyTest {
+
+    private static final String OVERRIDE_PROPERTY = "snapshotTest.value";
+
+    @After
+    public void clearOverride() {
+        System.clearProperty(OVERRIDE_PROPERTY);
+        ConfigFactory.invalidateCaches();
+    }
+
+    @Test
+    public void snapshotLoadMatchesLoad() {
+        CustomConfigLoadingStrategy strategy = newStrategy();
+        assertEquals(strategy.load().root(), strategy.snapshot().load().root());
+    }
+
+    @Test
+    public void snapshotParseApplicationConfigExcludesReference() {
+        CustomConfigLoadingStrategy snapshot = newStrategy().snapshot();
+        assertFalse(snapshot.parseApplicationConfig().hasPath("snapshotTest.reference"));
+        assertTrue(snapshot.load().getBoolean("snapshotTest.reference"));
+    }
+
+    @Test
+    public void snapshotLoadAppliesLaterSystemProperties() {
+        CustomConfigLoadingStrategy snapshot = newStrategy().snapshot();
+        assertEquals("application", snapshot.load().getString(OVERRIDE_PROPERTY));
+
+        System.setProperty(OVERRIDE_PROPERTY, "override");
+        ConfigFactory.invalidateCaches();
+        assertEquals("override", snapshot.load().getString(OVERRIDE_PROPERTY));
+        assertEquals("override", snapshot.load().getString("snapshotTest.copy"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void snapshotInstallThrows() {
+        newStrategy().snapshot().install();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void snapshotSoftInstallThrows() {
+        newStrategy().snapshot().softInstall();
+    }
+
+    private static CustomConfigLoadingStrategy newStrategy() {
+        return CustomConfigLoadingStrategy.builder()
+                .with(ConfigFactory.parseString("snapshotTest { value = application, copy = ${snapshotTest.value} }"))
+                .with(ConfigFactory.parseString("snapshotTest { layered = true }"))
+                .build();
+    }
+
+}